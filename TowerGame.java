@@ -5,6 +5,8 @@ import java.io.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class TowerGame extends JFrame {
     private static final int WINDOW_WIDTH = 400;
@@ -13,9 +15,24 @@ public class TowerGame extends JFrame {
     private static final int INITIAL_BLOCK_WIDTH = 200;
     private static final int BASE_Y = WINDOW_HEIGHT - 50;
     private static final String HIGH_SCORE_FILE = "highscore.txt";
+    private static final int SWING_RANGE = 150;
+    private static final int DROP_SPEED = 10;
+    
+    private static final int CITY_COLUMNS = 16;
+    private static final int CITY_ROWS = 16;
+    private static final int CITY_TILE_WIDTH = WINDOW_WIDTH / 2;
+    private static final int CITY_TILE_HEIGHT = WINDOW_HEIGHT / 2;
+    private static final int CITY_SCROLL_STEP = 40;
+    private static final int CITY_MIN_LEAF_SIZE = 16;
+    private static final Color[] CITY_BLOCK_COLORS = {new Color(70, 110, 200), new Color(200, 80, 70), new Color(80, 170, 90), new Color(210, 150, 60)};
+    private static final Color[] CITY_TILE_COLORS = {new Color(20, 20, 40), new Color(20, 20, 55)};
+    private static final Font CITY_SCORE_FONT = new Font("Arial", Font.BOLD, 28);
+    private static final Color CITY_HUD_BACKGROUND = new Color(0, 0, 0, 160);
+    private static final Font CITY_HUD_FONT = new Font("Arial", Font.BOLD, 16);
+    private static final Font CITY_HUD_HINT_FONT = new Font("Arial", Font.PLAIN, 12);
     
     private enum GameState {
-        MENU, PLAYING, PAUSED, GAME_OVER
+        MENU, PLAYING, PAUSED, GAME_OVER, CITY
     }
     
     private GameState currentState = GameState.MENU;
@@ -23,24 +40,12 @@ public class TowerGame extends JFrame {
     private Timer gameTimer;
     private Timer animationTimer;
     
-    private int score = 0;
-    private int lives = 3;
     private int highScore = 0;
-    private boolean dropping = false;
     
-    private Block baseBlock;
-    private Block currentBlock;
-    private List<Block> stackedBlocks = new ArrayList<>();
+    private Tower tower = new Tower();
     private List<Particle> particles = new ArrayList<>();
     private List<FallingDebris> fallingDebris = new ArrayList<>();
     
-    private double swingAngle = 0;
-    private double swingSpeed = 0.05;
-    private int swingDirection = 1;
-    private int swingRange = 150;
-    
-    private int dropY = 0;
-    
     private int shakeOffsetX = 0;
     private int shakeOffsetY = 0;
     private int shakeIntensity = 0;
@@ -54,6 +59,12 @@ public class TowerGame extends JFrame {
     private boolean perfectPlacement = false;
     private int perfectFlashTimer = 0;
     
+    private CityTower[] cityTowers = new CityTower[0];
+    private ForkJoinPool cityPool = ForkJoinPool.commonPool();
+    private int cityCameraX = 0;
+    private int cityCameraY = 0;
+    private boolean cityPaused = false;
+    
     public TowerGame() {
         setTitle("都市摩天楼 - Tower Bloxx");
         setSize(WINDOW_WIDTH, WINDOW_HEIGHT);
@@ -115,6 +126,9 @@ public class TowerGame extends JFrame {
                     case GAME_OVER:
                         handleGameOverInput(e);
                         break;
+                    case CITY:
+                        handleCityInput(e);
+                        break;
                 }
             }
         });
@@ -125,10 +139,13 @@ public class TowerGame extends JFrame {
     
     private void handleMenuInput(KeyEvent e) {
         if (e.getKeyCode() == KeyEvent.VK_UP || e.getKeyCode() == KeyEvent.VK_DOWN) {
-            menuSelection = (menuSelection + 1) % 2;
+            int direction = e.getKeyCode() == KeyEvent.VK_UP ? 2 : 1;
+            menuSelection = (menuSelection + direction) % 3;
         } else if (e.getKeyCode() == KeyEvent.VK_SPACE || e.getKeyCode() == KeyEvent.VK_ENTER) {
             if (menuSelection == 0) {
                 startGame();
+            } else if (menuSelection == 1) {
+                startCity();
             } else {
                 System.exit(0);
             }
@@ -137,7 +154,7 @@ public class TowerGame extends JFrame {
     
     private void handleGameInput(KeyEvent e) {
         if (e.getKeyCode() == KeyEvent.VK_SPACE) {
-            if (!dropping) {
+            if (!tower.dropping) {
                 dropBlock();
             }
         } else if (e.getKeyCode() == KeyEvent.VK_ESCAPE || e.getKeyCode() == KeyEvent.VK_P) {
@@ -165,62 +182,99 @@ public class TowerGame extends JFrame {
         }
     }
     
+    private void handleCityInput(KeyEvent e) {
+        switch (e.getKeyCode()) {
+            case KeyEvent.VK_LEFT:
+                scrollCity(-CITY_SCROLL_STEP, 0);
+                break;
+            case KeyEvent.VK_RIGHT:
+                scrollCity(CITY_SCROLL_STEP, 0);
+                break;
+            case KeyEvent.VK_UP:
+                scrollCity(0, -CITY_SCROLL_STEP);
+                break;
+            case KeyEvent.VK_DOWN:
+                scrollCity(0, CITY_SCROLL_STEP);
+                break;
+            case KeyEvent.VK_P:
+                cityPaused = !cityPaused;
+                break;
+            case KeyEvent.VK_ESCAPE:
+            case KeyEvent.VK_Q:
+                currentState = GameState.MENU;
+                break;
+        }
+    }
+    
+    private void scrollCity(int dx, int dy) {
+        int maxX = CITY_COLUMNS * CITY_TILE_WIDTH - WINDOW_WIDTH;
+        int maxY = CITY_ROWS * CITY_TILE_HEIGHT - WINDOW_HEIGHT;
+        cityCameraX = Math.max(0, Math.min(maxX, cityCameraX + dx));
+        cityCameraY = Math.max(0, Math.min(maxY, cityCameraY + dy));
+    }
+    
+    private void startCity() {
+        cityTowers = new CityTower[CITY_COLUMNS * CITY_ROWS];
+        for (int i = 0; i < cityTowers.length; i++) {
+            cityTowers[i] = new CityTower(i % CITY_COLUMNS, i / CITY_COLUMNS, new Random(i));
+        }
+        cityCameraX = 0;
+        cityCameraY = 0;
+        cityPaused = false;
+        shakeIntensity = 0;
+        perfectFlashTimer = 0;
+        currentState = GameState.CITY;
+    }
+    
     private void startGame() {
-        score = 0;
-        lives = 3;
         displayedScore = 0;
-        dropping = false;
-        swingAngle = 0;
-        swingSpeed = 0.05;
-        swingDirection = 1;
         shakeIntensity = 0;
         perfectFlashTimer = 0;
         
-        stackedBlocks.clear();
+        tower.reset(1);
         particles.clear();
         fallingDebris.clear();
         
-        baseBlock = new Block(WINDOW_WIDTH / 2 - INITIAL_BLOCK_WIDTH / 2, BASE_Y, INITIAL_BLOCK_WIDTH, BLOCK_HEIGHT, Color.GRAY);
-        stackedBlocks.add(baseBlock);
-        
         spawnCurrentBlock();
         currentState = GameState.PLAYING;
     }
     
     private void spawnCurrentBlock() {
-        if (stackedBlocks.isEmpty()) {
-            currentBlock = new Block(WINDOW_WIDTH / 2 - INITIAL_BLOCK_WIDTH / 2, 50, INITIAL_BLOCK_WIDTH, BLOCK_HEIGHT, Color.BLUE);
-        } else {
-            Block topBlock = stackedBlocks.get(stackedBlocks.size() - 1);
-            currentBlock = new Block(WINDOW_WIDTH / 2 - topBlock.width / 2, 50, topBlock.width, BLOCK_HEIGHT, getRandomColor());
-        }
-        swingAngle = 0;
+        tower.spawnBlock(getRandomColor(), 0);
     }
     
     private Color getRandomColor() {
         Color[] colors = {Color.BLUE, Color.RED, Color.GREEN, Color.ORANGE, Color.MAGENTA, Color.CYAN};
-        return colors[score % colors.length];
+        return colors[tower.score % colors.length];
     }
     
     private void dropBlock() {
-        dropping = true;
-        dropY = currentBlock.y;
+        tower.dropping = true;
     }
     
     private void gameLoop() {
-        if (currentState == GameState.PLAYING && !dropping) {
-            updateSwing();
+        if (currentState == GameState.PLAYING && !tower.dropping) {
+            tower.updateSwing();
         }
         
-        if (currentState == GameState.PLAYING && dropping) {
+        if (currentState == GameState.PLAYING && tower.dropping) {
             updateDrop();
         }
         
+        if (currentState == GameState.CITY && !cityPaused) {
+            updateCity();
+        }
+        
         updateScreenShake();
         
         gamePanel.repaint();
     }
     
+    private void updateCity() {
+        int leafSize = Math.max(CITY_MIN_LEAF_SIZE, cityTowers.length / (cityPool.getParallelism() * 4));
+        cityPool.invoke(new CityUpdateTask(cityTowers, 0, cityTowers.length, leafSize));
+    }
+    
     private void updateAnimations() {
         updateParticles();
         updateFallingDebris();
@@ -228,32 +282,15 @@ public class TowerGame extends JFrame {
         updatePerfectFlash();
     }
     
-    private void updateSwing() {
-        swingAngle += swingSpeed * swingDirection;
-        
-        if (swingAngle >= 1 || swingAngle <= -1) {
-            swingDirection *= -1;
-        }
-        
-        int centerX = WINDOW_WIDTH / 2;
-        currentBlock.x = (int)(centerX - currentBlock.width / 2 + swingAngle * swingRange);
-    }
-    
     private void updateDrop() {
-        dropY += 10;
-        currentBlock.y = dropY;
-        
-        Block topBlock = stackedBlocks.get(stackedBlocks.size() - 1);
-        
-        if (currentBlock.y >= topBlock.y - BLOCK_HEIGHT) {
-            checkCollision(topBlock);
+        if (tower.updateDrop()) {
+            checkCollision(tower.topBlock());
         }
     }
     
     private void checkCollision(Block topBlock) {
-        int overlapLeft = Math.max(currentBlock.x, topBlock.x);
-        int overlapRight = Math.min(currentBlock.x + currentBlock.width, topBlock.x + topBlock.width);
-        int overlapWidth = overlapRight - overlapLeft;
+        int overlapLeft = tower.overlapLeft(topBlock);
+        int overlapWidth = tower.overlapWidth(topBlock);
         
         if (overlapWidth <= 0) {
             handleMiss();
@@ -263,20 +300,19 @@ public class TowerGame extends JFrame {
     }
     
     private void handleMiss() {
-        lives--;
+        tower.lives--;
         
-        if (lives <= 0) {
+        if (tower.lives <= 0) {
             gameOver();
         } else {
-            createFallingDebris(currentBlock);
+            createFallingDebris(tower.currentBlock);
             shakeIntensity = 10;
             spawnCurrentBlock();
-            dropping = false;
         }
     }
     
     private void handleHit(int overlapLeft, int overlapWidth, Block topBlock) {
-        score++;
+        Block currentBlock = tower.currentBlock;
         
         perfectPlacement = false;
         
@@ -288,19 +324,9 @@ public class TowerGame extends JFrame {
             createCutParticles(currentBlock, overlapLeft, overlapWidth, topBlock);
         }
         
-        currentBlock.width = overlapWidth;
-        currentBlock.x = overlapLeft;
-        currentBlock.y = topBlock.y - BLOCK_HEIGHT;
-        
-        stackedBlocks.add(currentBlock);
-        
-        shiftBlocksDown();
+        tower.land(overlapLeft, overlapWidth, topBlock);
         
         spawnCurrentBlock();
-        
-        swingSpeed = 0.05 + score * 0.002;
-        
-        dropping = false;
     }
     
     private void createPerfectParticles(Block block) {
@@ -363,7 +389,7 @@ public class TowerGame extends JFrame {
     }
     
     private void updateScoreAnimation() {
-        if (displayedScore < score) {
+        if (displayedScore < tower.score) {
             scoreAnimationTimer++;
             if (scoreAnimationTimer >= 3) {
                 displayedScore++;
@@ -390,18 +416,12 @@ public class TowerGame extends JFrame {
         }
     }
     
-    private void shiftBlocksDown() {
-        for (Block block : stackedBlocks) {
-            block.y += BLOCK_HEIGHT;
-        }
-    }
-    
     private void gameOver() {
         shakeIntensity = 20;
         currentState = GameState.GAME_OVER;
         
-        if (score > highScore) {
-            highScore = score;
+        if (tower.score > highScore) {
+            highScore = tower.score;
             saveHighScore();
         }
     }
@@ -434,6 +454,9 @@ public class TowerGame extends JFrame {
                     drawGame(g);
                     drawGameOver(g);
                     break;
+                case CITY:
+                    drawCity(g);
+                    break;
             }
         }
         
@@ -448,7 +471,7 @@ public class TowerGame extends JFrame {
             g.drawString("Tower Bloxx", (WINDOW_WIDTH - fm.stringWidth("Tower Bloxx")) / 2, 190);
             
             g.setFont(new Font("Arial", Font.BOLD, 24));
-            String[] options = {"开始游戏", "退出游戏"};
+            String[] options = {"开始游戏", "都市模式", "退出游戏"};
             for (int i = 0; i < options.length; i++) {
                 if (i == menuSelection) {
                     g.setColor(Color.YELLOW);
@@ -469,12 +492,12 @@ public class TowerGame extends JFrame {
         }
         
         private void drawGame(Graphics g) {
-            for (Block block : stackedBlocks) {
-                block.draw(g);
+            for (Block block : tower.stackedBlocks) {
+                block.draw(g, perfectFlashTimer);
             }
             
             if (currentState == GameState.PLAYING) {
-                currentBlock.draw(g);
+                tower.currentBlock.draw(g, perfectFlashTimer);
             }
             
             for (FallingDebris debris : fallingDebris) {
@@ -488,13 +511,54 @@ public class TowerGame extends JFrame {
             drawHUD(g);
         }
         
+        private void drawCity(Graphics g) {
+            int firstColumn = cityCameraX / CITY_TILE_WIDTH;
+            int lastColumn = Math.min(CITY_COLUMNS - 1, (cityCameraX + WINDOW_WIDTH - 1) / CITY_TILE_WIDTH);
+            int firstRow = cityCameraY / CITY_TILE_HEIGHT;
+            int lastRow = Math.min(CITY_ROWS - 1, (cityCameraY + WINDOW_HEIGHT - 1) / CITY_TILE_HEIGHT);
+            
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int column = firstColumn; column <= lastColumn; column++) {
+                    int tileX = column * CITY_TILE_WIDTH - cityCameraX;
+                    int tileY = row * CITY_TILE_HEIGHT - cityCameraY;
+                    Graphics2D tile = (Graphics2D) g.create(tileX, tileY, CITY_TILE_WIDTH, CITY_TILE_HEIGHT);
+                    cityTowers[row * CITY_COLUMNS + column].draw(tile);
+                    tile.dispose();
+                }
+            }
+            
+            drawCityHUD(g);
+        }
+        
+        private void drawCityHUD(Graphics g) {
+            int totalFloors = 0;
+            int tallest = 0;
+            for (CityTower cityTower : cityTowers) {
+                totalFloors += cityTower.score;
+                tallest = Math.max(tallest, cityTower.score);
+            }
+            
+            g.setColor(CITY_HUD_BACKGROUND);
+            g.fillRect(0, 0, WINDOW_WIDTH, 50);
+            
+            g.setColor(Color.WHITE);
+            g.setFont(CITY_HUD_FONT);
+            g.drawString("都市楼层: " + totalFloors, 10, 20);
+            g.drawString("最高楼: " + tallest, 10, 40);
+            
+            g.setColor(Color.LIGHT_GRAY);
+            g.setFont(CITY_HUD_HINT_FONT);
+            g.drawString("方向键 - 移动", WINDOW_WIDTH - 110, 20);
+            g.drawString(cityPaused ? "P - 继续  Q - 菜单" : "P - 暂停  Q - 菜单", WINDOW_WIDTH - 110, 40);
+        }
+        
         private void drawHUD(Graphics g) {
             g.setColor(Color.WHITE);
             g.setFont(new Font("Arial", Font.BOLD, 28));
             g.drawString("楼层: " + displayedScore, 20, 40);
             
             g.setFont(new Font("Arial", Font.BOLD, 20));
-            g.drawString("生命: " + lives, 20, 70);
+            g.drawString("生命: " + tower.lives, 20, 70);
             
             g.setColor(Color.GRAY);
             g.setFont(new Font("Arial", Font.PLAIN, 14));
@@ -530,9 +594,9 @@ public class TowerGame extends JFrame {
             
             g.setColor(Color.WHITE);
             g.setFont(new Font("Arial", Font.BOLD, 32));
-            g.drawString("最终楼层: " + score, (WINDOW_WIDTH - fm.stringWidth("最终楼层: " + score)) / 2, WINDOW_HEIGHT / 2);
+            g.drawString("最终楼层: " + tower.score, (WINDOW_WIDTH - fm.stringWidth("最终楼层: " + tower.score)) / 2, WINDOW_HEIGHT / 2);
             
-            if (score == highScore && score > 0) {
+            if (tower.score == highScore && tower.score > 0) {
                 g.setColor(Color.YELLOW);
                 g.setFont(new Font("Arial", Font.BOLD, 24));
                 g.drawString("新纪录!", (WINDOW_WIDTH - fm.stringWidth("新纪录!")) / 2, WINDOW_HEIGHT / 2 + 40);
@@ -556,12 +620,15 @@ public class TowerGame extends JFrame {
         }
     }
     
-    private class Block {
+    private static class Block {
         int x;
         int y;
         int width;
         int height;
         Color color;
+        final Color lightColor;
+        final Color darkColor;
+        final Color innerColor;
         
         Block(int x, int y, int width, int height, Color color) {
             this.x = x;
@@ -569,29 +636,32 @@ public class TowerGame extends JFrame {
             this.width = width;
             this.height = height;
             this.color = color;
+            this.lightColor = color.brighter();
+            this.darkColor = color.darker();
+            this.innerColor = new Color(Math.min(255, color.getRed() + 30), Math.min(255, color.getGreen() + 30), Math.min(255, color.getBlue() + 30));
         }
         
-        void draw(Graphics g) {
-            drawPixelBlock(g, x, y, width, height, color);
+        void draw(Graphics g, int flashTimer) {
+            drawPixelBlock(g, x, y, width, height, color, flashTimer);
         }
         
-        private void drawPixelBlock(Graphics g, int x, int y, int width, int height, Color color) {
+        private void drawPixelBlock(Graphics g, int x, int y, int width, int height, Color color, int flashTimer) {
             g.setColor(color);
             g.fillRect(x, y, width, height);
             
-            g.setColor(color.brighter());
+            g.setColor(lightColor);
             g.fillRect(x, y, width, 2);
             g.fillRect(x, y, 2, height);
             
-            g.setColor(color.darker());
+            g.setColor(darkColor);
             g.fillRect(x, y + height - 2, width, 2);
             g.fillRect(x + width - 2, y, 2, height);
             
-            g.setColor(new Color(color.getRed() + 30, color.getGreen() + 30, color.getBlue() + 30));
+            g.setColor(innerColor);
             g.fillRect(x + 4, y + 4, width - 8, height - 8);
             
-            if (perfectFlashTimer > 0) {
-                g.setColor(new Color(0, 255, 0, (int)(255 * (perfectFlashTimer / 30.0))));
+            if (flashTimer > 0) {
+                g.setColor(new Color(0, 255, 0, (int)(255 * (flashTimer / 30.0))));
                 g.fillRect(x, y, width, height);
             }
         }
@@ -666,6 +736,182 @@ public class TowerGame extends JFrame {
         }
     }
     
+    private static class Tower {
+        final List<Block> stackedBlocks = new ArrayList<>();
+        Block currentBlock;
+        int score;
+        int lives;
+        boolean dropping;
+        double swingAngle;
+        double swingSpeed;
+        int swingDirection;
+        
+        void reset(int swingDirection) {
+            score = 0;
+            lives = 3;
+            dropping = false;
+            swingAngle = 0;
+            swingSpeed = 0.05;
+            this.swingDirection = swingDirection;
+            
+            stackedBlocks.clear();
+            stackedBlocks.add(new Block(WINDOW_WIDTH / 2 - INITIAL_BLOCK_WIDTH / 2, BASE_Y, INITIAL_BLOCK_WIDTH, BLOCK_HEIGHT, Color.GRAY));
+        }
+        
+        void spawnBlock(Color color, double swingAngle) {
+            Block topBlock = topBlock();
+            currentBlock = new Block(WINDOW_WIDTH / 2 - topBlock.width / 2, 50, topBlock.width, BLOCK_HEIGHT, color);
+            this.swingAngle = swingAngle;
+            dropping = false;
+        }
+        
+        Block topBlock() {
+            return stackedBlocks.get(stackedBlocks.size() - 1);
+        }
+        
+        void updateSwing() {
+            swingAngle += swingSpeed * swingDirection;
+            
+            if (swingAngle >= 1 || swingAngle <= -1) {
+                swingDirection *= -1;
+            }
+            
+            int centerX = WINDOW_WIDTH / 2;
+            currentBlock.x = (int)(centerX - currentBlock.width / 2 + swingAngle * SWING_RANGE);
+        }
+        
+        /** Moves the current block down one step; returns true once it has reached the top of the stack. */
+        boolean updateDrop() {
+            currentBlock.y += DROP_SPEED;
+            return currentBlock.y >= topBlock().y - BLOCK_HEIGHT;
+        }
+        
+        int overlapLeft(Block topBlock) {
+            return Math.max(currentBlock.x, topBlock.x);
+        }
+        
+        int overlapWidth(Block topBlock) {
+            int overlapRight = Math.min(currentBlock.x + currentBlock.width, topBlock.x + topBlock.width);
+            return overlapRight - overlapLeft(topBlock);
+        }
+        
+        void land(int overlapLeft, int overlapWidth, Block topBlock) {
+            score++;
+            
+            currentBlock.width = overlapWidth;
+            currentBlock.x = overlapLeft;
+            currentBlock.y = topBlock.y - BLOCK_HEIGHT;
+            
+            stackedBlocks.add(currentBlock);
+            
+            for (Block block : stackedBlocks) {
+                block.y += BLOCK_HEIGHT;
+            }
+            
+            swingSpeed = 0.05 + score * 0.002;
+        }
+    }
+    
+    private static class CityTower extends Tower {
+        final int column;
+        final int row;
+        final Random random;
+        int dropDelay;
+        
+        CityTower(int column, int row, Random random) {
+            this.column = column;
+            this.row = row;
+            this.random = random;
+            restart();
+        }
+        
+        void restart() {
+            reset(random.nextBoolean() ? 1 : -1);
+            spawnCityBlock();
+        }
+        
+        void spawnCityBlock() {
+            spawnBlock(CITY_BLOCK_COLORS[random.nextInt(CITY_BLOCK_COLORS.length)], random.nextDouble() * 2 - 1);
+            dropDelay = 30 + random.nextInt(90);
+        }
+        
+        void update() {
+            if (!dropping) {
+                updateSwing();
+                if (--dropDelay <= 0) {
+                    dropping = true;
+                }
+                return;
+            }
+            
+            if (!updateDrop()) {
+                return;
+            }
+            
+            Block topBlock = topBlock();
+            int overlapWidth = overlapWidth(topBlock);
+            
+            if (overlapWidth <= 0) {
+                if (--lives <= 0) {
+                    restart();
+                } else {
+                    spawnCityBlock();
+                }
+                return;
+            }
+            
+            land(overlapLeft(topBlock), overlapWidth, topBlock);
+            // Blocks that have scrolled off the tile are never drawn again; keep the top one for collision.
+            while (stackedBlocks.size() > 1 && stackedBlocks.get(0).y > WINDOW_HEIGHT) {
+                stackedBlocks.remove(0);
+            }
+            spawnCityBlock();
+        }
+        
+        void draw(Graphics2D g) {
+            g.setColor(CITY_TILE_COLORS[(column + row) % 2]);
+            g.fillRect(0, 0, CITY_TILE_WIDTH, CITY_TILE_HEIGHT);
+            
+            g.scale(CITY_TILE_WIDTH / (double) WINDOW_WIDTH, CITY_TILE_HEIGHT / (double) WINDOW_HEIGHT);
+            for (Block block : stackedBlocks) {
+                block.draw(g, 0);
+            }
+            currentBlock.draw(g, 0);
+            
+            g.setColor(Color.WHITE);
+            g.setFont(CITY_SCORE_FONT);
+            g.drawString(String.valueOf(score), 20, 40);
+        }
+    }
+    
+    private static class CityUpdateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final CityTower[] towers;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        
+        CityUpdateTask(CityTower[] towers, int from, int to, int leafSize) {
+            this.towers = towers;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                for (int i = from; i < to; i++) {
+                    towers[i].update();
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new CityUpdateTask(towers, from, mid, leafSize), new CityUpdateTask(towers, mid, to, leafSize));
+        }
+    }
+    
     public static void main(String[] args) {
         SwingUtilities.invokeLater(() -> {
             TowerGame game = new TowerGame();